@@ -5,8 +5,16 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.github.fabiankevin.lemon.web.exceptions.ApiException;
 import com.github.fabiankevin.lemon.web.exceptions.BusinessRuleException;
 import com.github.fabiankevin.lemon.web.exceptions.DomainException;
+import com.github.fabiankevin.lemon.web.exceptions.ErrorCatalog;
+import com.github.fabiankevin.lemon.web.exceptions.ErrorCatalogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.*;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -20,23 +28,39 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.HandlerMapping;
+import tools.jackson.core.exc.StreamConstraintsException;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private static final String CLIENT_ABORTS_METRIC = "lemon.client.aborts";
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final String CLIENT_ABORT_EXCEPTION = "org.apache.catalina.connector.ClientAbortException";
+    private static final String INTERNAL_SERVER_ERROR_DETAIL =
+            "An unexpected error occurred. Please try again later or contact support if the problem persists.";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ErrorCatalog> errorCatalog;
 
     @ExceptionHandler(BusinessRuleException.class)
-    public ResponseEntity<ProblemDetail> handleBusinessRuleExceptions(BusinessRuleException ex) {
+    public ResponseEntity<ProblemDetail> handleBusinessRuleExceptions(BusinessRuleException ex, Locale locale) {
         log.debug("BusinessRuleException: {}", ex.getMessage(), ex);
 
+        if (ex.isCataloged()) {
+            return catalogResponse(ex, locale);
+        }
         return problemResponse(HttpStatusCode.valueOf(ex.getHttpStatusCode()), ex.getTitle(), ex.getMessage(), ex.getCode(), null);
     }
 
@@ -70,6 +94,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ProblemDetail> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
         log.debug("HttpMessageNotReadableException: {}", ex.getMessage(), ex);
 
+        if (ex.getMostSpecificCause() instanceof StreamConstraintsException streamConstraintsException) {
+            return streamConstraintsResponse(streamConstraintsException);
+        }
+
         if (ex.getCause() instanceof InvalidFormatException invalidFormatException) {
             return problemResponse(
                     HttpStatus.BAD_REQUEST,
@@ -172,19 +200,34 @@ public class GlobalExceptionHandler {
                                 .collect(Collectors.joining(", "))));
     }
 
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public ResponseEntity<ProblemDetail> handleAsyncRequestNotUsableException(AsyncRequestNotUsableException ex, HttpServletRequest request) {
+        return clientAborted(ex, request);
+    }
+
     @ExceptionHandler(AsyncRequestTimeoutException.class)
-    public ResponseEntity<ProblemDetail> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex) {
+    public ResponseEntity<ProblemDetail> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex, HttpServletResponse response) {
         log.debug("AsyncRequestTimeoutException: {}", ex.getMessage(), ex);
+        if (response.isCommitted()) {
+            return null;
+        }
         return problemResponse(HttpStatus.SERVICE_UNAVAILABLE, "Request timeout", "The request took too long to process and timed out");
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
+    public ResponseEntity<ProblemDetail> handleGenericException(Exception ex, HttpServletRequest request, HttpServletResponse response) {
+        if (isClientAbort(ex)) {
+            return clientAborted(ex, request);
+        }
+        if (response.isCommitted()) {
+            log.error("Exception after the response was committed", ex);
+            return null;
+        }
         log.debug("handleGenericException: {}", ex.getMessage(), ex);
         return problemResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "Internal server error",
-                "An unexpected error occurred. Please try again later or contact support if the problem persists.");
+                INTERNAL_SERVER_ERROR_DETAIL);
     }
 
     @ExceptionHandler(MaxUploadSizeExceededException.class)
@@ -193,6 +236,64 @@ public class GlobalExceptionHandler {
         return problemResponse(HttpStatus.CONTENT_TOO_LARGE, "Content too large", "The uploaded content exceeds the maximum allowed size");
     }
 
+    private ResponseEntity<ProblemDetail> catalogResponse(BusinessRuleException ex, Locale locale) {
+        ErrorCatalog catalog = errorCatalog.getIfAvailable();
+        if (catalog == null || !catalog.contains(ex.getCode())) {
+            log.warn("No error catalog entry for code '{}'", ex.getCode());
+            return problemResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", INTERNAL_SERVER_ERROR_DETAIL, ex.getCode(), null);
+        }
+
+        ErrorCatalogEntry entry = catalog.render(ex.getCode(), ex.getArguments(), locale);
+        return problemResponse(entry.status(), entry.title(), entry.detail(), entry.code(), null);
+    }
+
+    /**
+     * The client is gone, so no body is built or written. A {@code null} entity marks the request as handled.
+     */
+    private ResponseEntity<ProblemDetail> clientAborted(Exception ex, HttpServletRequest request) {
+        log.debug("Client disconnected: {}", ex.getMessage());
+
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        meterRegistry.ifAvailable(registry -> Counter.builder(CLIENT_ABORTS_METRIC)
+                .description("Requests whose client disconnected before the response was written")
+                .tag("route", route != null ? route.toString() : UNKNOWN_ROUTE)
+                .register(registry)
+                .increment());
+        return null;
+    }
+
+    /**
+     * Only Tomcat's {@code ClientAbortException} proves the servlet response itself is unusable; I/O errors with
+     * similar messages may come from downstream calls on a live request. Matched by name so Tomcat stays optional.
+     */
+    private static boolean isClientAbort(Throwable ex) {
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            if (CLIENT_ABORT_EXCEPTION.equals(current.getClass().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity<ProblemDetail> streamConstraintsResponse(StreamConstraintsException ex) {
+        String message = Objects.requireNonNullElse(ex.getOriginalMessage(), "");
+
+        if (message.startsWith("Document length")) {
+            return problemResponse(HttpStatus.CONTENT_TOO_LARGE, "Content too large", "The request body exceeds the maximum allowed size");
+        }
+        if (message.startsWith("Document nesting depth")) {
+            return problemResponse(HttpStatus.BAD_REQUEST, "Invalid request body", "The request body exceeds the maximum allowed nesting depth");
+        }
+        if (message.startsWith("String value length")) {
+            return problemResponse(HttpStatus.BAD_REQUEST, "Invalid request body", "The request body contains a string value that exceeds the maximum allowed length");
+        }
+        if (message.startsWith("Number value length")) {
+            return problemResponse(HttpStatus.BAD_REQUEST, "Invalid request body", "The request body contains a number value that exceeds the maximum allowed length");
+        }
+
+        return problemResponse(HttpStatus.BAD_REQUEST, "Invalid request body", "The request body exceeds the allowed parsing limits");
+    }
+
     private ResponseEntity<ProblemDetail> problemResponse(HttpStatusCode status, String title, String detail) {
         return ResponseEntity.status(status).body(problemDetail(status, title, detail, null, null));
     }
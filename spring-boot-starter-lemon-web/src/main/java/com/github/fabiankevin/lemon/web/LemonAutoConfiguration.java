@@ -1,20 +1,41 @@
 package com.github.fabiankevin.lemon.web;
 
+import com.github.fabiankevin.lemon.web.exceptions.ErrorCatalog;
 import com.github.fabiankevin.lemon.web.security.DefaultBearerAccessDeniedHandler;
 import com.github.fabiankevin.lemon.web.security.DefaultInvalidTokenAuthenticationEntryPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.Scope;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.databind.json.JsonMapper;
 
-@AutoConfiguration
+@AutoConfiguration(before = JacksonAutoConfiguration.class)
 @PropertySource("classpath:application-simple-default.properties")
+@EnableConfigurationProperties({LemonJsonProperties.class, LemonErrorsProperties.class})
 public class LemonAutoConfiguration {
 
     @Bean
-    public GlobalExceptionHandler globalExceptionHandler() {
-        return new GlobalExceptionHandler();
+    public GlobalExceptionHandler globalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<ErrorCatalog> errorCatalog) {
+        return new GlobalExceptionHandler(meterRegistry, errorCatalog);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "lemon.errors", name = "catalog")
+    public ErrorCatalog errorCatalog(LemonErrorsProperties properties, MessageSource messageSource) {
+        return ErrorCatalog.load(properties.getCatalog(), messageSource, properties.getDefaultLocale(), properties.getLocales());
     }
 
     @Bean
@@ -26,4 +47,25 @@ public class LemonAutoConfiguration {
     public AccessDeniedHandler defaultBearerAccessDeniedHandler(){
         return new DefaultBearerAccessDeniedHandler();
     }
+
+    @Bean
+    @Scope("prototype")
+    @ConditionalOnMissingBean
+    public JsonMapper.Builder lemonJsonMapperBuilder(LemonJsonProperties properties, ObjectProvider<JsonMapperBuilderCustomizer> customizers) {
+        JsonFactory jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(streamReadConstraints(properties.getLimits()))
+                .build();
+        JsonMapper.Builder builder = JsonMapper.builder(jsonFactory);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+
+    private static StreamReadConstraints streamReadConstraints(LemonJsonProperties.Limits limits) {
+        return StreamReadConstraints.builder()
+                .maxNestingDepth(limits.getMaxNestingDepth())
+                .maxStringLength(limits.getMaxStringLength())
+                .maxNumberLength(limits.getMaxNumberLength())
+                .maxDocumentLength(limits.getMaxDocumentLength().toBytes())
+                .build();
+    }
 }
@@ -0,0 +1,33 @@
+package com.github.fabiankevin.lemon.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemon.errors")
+public class LemonErrorsProperties {
+
+    /**
+     * Location of the error catalog, a properties or YAML file declaring status, title and detail for each code.
+     * Details are MessageFormat patterns, so a literal apostrophe must be written as {@code ''}.
+     */
+    private Resource catalog;
+
+    /**
+     * Locale used for requests whose locale matches none of the supported locales.
+     */
+    private Locale defaultLocale = Locale.ENGLISH;
+
+    /**
+     * Additional locales whose catalog translations are precompiled and validated at startup. Other request locales
+     * use the supported locale with the same language, or the default locale.
+     */
+    private List<Locale> locales = new ArrayList<>();
+}
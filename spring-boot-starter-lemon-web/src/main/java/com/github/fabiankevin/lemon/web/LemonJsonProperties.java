@@ -0,0 +1,41 @@
+package com.github.fabiankevin.lemon.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemon.json")
+public class LemonJsonProperties {
+
+    private final Limits limits = new Limits();
+
+    /**
+     * Read limits applied to the application JSON mapper. Payloads exceeding them are rejected while parsing.
+     */
+    @Getter
+    @Setter
+    public static class Limits {
+        /**
+         * Maximum depth of nested objects and arrays.
+         */
+        private int maxNestingDepth = 200;
+
+        /**
+         * Maximum length, in characters, of a single string value.
+         */
+        private int maxStringLength = 1_000_000;
+
+        /**
+         * Maximum length, in characters, of a single number value.
+         */
+        private int maxNumberLength = 100;
+
+        /**
+         * Maximum size of a whole JSON document.
+         */
+        private DataSize maxDocumentLength = DataSize.ofMegabytes(10);
+    }
+}
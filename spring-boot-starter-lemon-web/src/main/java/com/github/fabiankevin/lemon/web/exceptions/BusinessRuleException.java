@@ -6,10 +6,27 @@ import lombok.Getter;
 public class BusinessRuleException extends ApiException {
     private String code;
     private String title;
+    private Object[] arguments;
+    private final boolean cataloged;
 
     public BusinessRuleException(String message, int httpCode, String title, String code) {
         super(message, httpCode);
         this.title = title;
         this.code = code;
+        this.cataloged = false;
+    }
+
+    private BusinessRuleException(String code, Object[] arguments) {
+        super(code);
+        this.code = code;
+        this.arguments = arguments != null ? arguments : new Object[0];
+        this.cataloged = true;
+    }
+
+    /**
+     * Creates an exception whose status, title and detail are resolved from the {@link ErrorCatalog} entry for {@code code}.
+     */
+    public static BusinessRuleException of(String code, Object... arguments) {
+        return new BusinessRuleException(code, arguments);
     }
 }
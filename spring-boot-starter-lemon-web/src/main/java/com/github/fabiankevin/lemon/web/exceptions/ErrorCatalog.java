@@ -0,0 +1,225 @@
+package com.github.fabiankevin.lemon.web.exceptions;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.context.MessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.HttpStatusCode;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Every business error code the application can return, loaded and validated once at startup.
+ * <p>
+ * Each code declares {@code <code>.status}, {@code <code>.title} and {@code <code>.detail}, where the detail is a
+ * {@link MessageFormat} pattern: a literal apostrophe must be doubled ({@code can''t}), and a single apostrophe is
+ * only accepted to quote a brace. Titles and details can be translated with the message keys
+ * {@code lemon.errors.<code>.title} and {@code lemon.errors.<code>.detail}. Templates are compiled and validated at
+ * startup for the default locale and each supported locale only; any other request locale is rendered with the
+ * closest supported one, so client-controlled locales never add entries.
+ */
+public class ErrorCatalog {
+    private static final String MESSAGE_KEY_PREFIX = "lemon.errors.";
+    private static final Set<String> ATTRIBUTES = Set.of("status", "title", "detail");
+
+    private final Map<String, ErrorCatalogEntry> entries;
+    private final List<Locale> locales;
+    private final Map<LocalizedCode, CompiledEntry> compiledEntries;
+
+    private ErrorCatalog(Map<String, ErrorCatalogEntry> entries, List<Locale> locales, Map<LocalizedCode, CompiledEntry> compiledEntries) {
+        this.entries = Collections.unmodifiableMap(entries);
+        this.locales = locales;
+        this.compiledEntries = Map.copyOf(compiledEntries);
+    }
+
+    /**
+     * Loads the catalog at {@code resource}. Requests whose locale matches none of {@code locales} are rendered in
+     * {@code defaultLocale}.
+     */
+    public static ErrorCatalog load(Resource resource, MessageSource messageSource, Locale defaultLocale, List<Locale> locales) {
+        if (!resource.exists()) {
+            throw new IllegalStateException("Error catalog %s does not exist".formatted(resource.getDescription()));
+        }
+        return of(read(resource), messageSource, defaultLocale, locales);
+    }
+
+    public static ErrorCatalog of(Properties properties, MessageSource messageSource, Locale defaultLocale, List<Locale> locales) {
+        Map<String, Map<String, String>> attributesByCode = new TreeMap<>();
+        List<String> problems = new ArrayList<>();
+
+        for (Object name : properties.keySet()) {
+            String key = name.toString();
+            int separator = key.lastIndexOf('.');
+            String attribute = key.substring(separator + 1);
+            if (separator <= 0 || !ATTRIBUTES.contains(attribute)) {
+                problems.add("'%s' is not one of <code>.status, <code>.title or <code>.detail".formatted(key));
+                continue;
+            }
+            attributesByCode.computeIfAbsent(key.substring(0, separator), code -> new TreeMap<>())
+                    .put(attribute, Objects.toString(properties.get(name), null));
+        }
+
+        Map<String, ErrorCatalogEntry> entries = new TreeMap<>();
+        attributesByCode.forEach((code, attributes) -> {
+            ErrorCatalogEntry entry = entry(code, attributes, problems);
+            if (entry != null) {
+                entries.put(code, entry);
+            }
+        });
+
+        List<Locale> supportedLocales = Stream.concat(Stream.of(defaultLocale), locales.stream()).distinct().toList();
+        Map<LocalizedCode, CompiledEntry> compiledEntries = new HashMap<>();
+        for (ErrorCatalogEntry entry : entries.values()) {
+            for (Locale locale : supportedLocales) {
+                CompiledEntry compiled = compile(entry, locale, messageSource, problems);
+                if (compiled != null) {
+                    compiledEntries.put(new LocalizedCode(entry.code(), locale), compiled);
+                }
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid error catalog: " + String.join("; ", problems));
+        }
+        return new ErrorCatalog(entries, supportedLocales, compiledEntries);
+    }
+
+    public boolean contains(String code) {
+        return entries.containsKey(code);
+    }
+
+    public Map<String, ErrorCatalogEntry> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry for {@code code} with its title and detail localized and the detail filled with {@code arguments}.
+     */
+    public ErrorCatalogEntry render(String code, Object[] arguments, Locale locale) {
+        ErrorCatalogEntry entry = entries.get(code);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown error code '%s'".formatted(code));
+        }
+        CompiledEntry compiled = compiledEntries.get(new LocalizedCode(code, supportedLocale(locale)));
+        return new ErrorCatalogEntry(code, entry.status(), compiled.title(), compiled.format(arguments));
+    }
+
+    private Locale supportedLocale(Locale locale) {
+        if (locale != null) {
+            if (locales.contains(locale)) {
+                return locale;
+            }
+            for (Locale supported : locales) {
+                if (supported.getLanguage().equals(locale.getLanguage())) {
+                    return supported;
+                }
+            }
+        }
+        return locales.getFirst();
+    }
+
+    private static CompiledEntry compile(ErrorCatalogEntry entry, Locale locale, MessageSource messageSource, List<String> problems) {
+        String title = messageSource.getMessage(MESSAGE_KEY_PREFIX + entry.code() + ".title", null, entry.title(), locale);
+        String detail = messageSource.getMessage(MESSAGE_KEY_PREFIX + entry.code() + ".detail", null, entry.detail(), locale);
+        try {
+            return new CompiledEntry(Objects.requireNonNullElse(title, entry.title()),
+                    template(Objects.requireNonNullElse(detail, entry.detail()), locale));
+        } catch (IllegalArgumentException ex) {
+            problems.add("'%s' detail for locale '%s' is not a valid message template: %s".formatted(entry.code(), locale, ex.getMessage()));
+            return null;
+        }
+    }
+
+    private static ErrorCatalogEntry entry(String code, Map<String, String> attributes, List<String> problems) {
+        int problemCount = problems.size();
+        for (String attribute : ATTRIBUTES) {
+            String value = attributes.get(attribute);
+            if (value == null || value.isBlank()) {
+                problems.add("'%s' is missing %s".formatted(code, attribute));
+            }
+        }
+        if (problems.size() > problemCount) {
+            return null;
+        }
+
+        HttpStatusCode status = null;
+        try {
+            status = HttpStatusCode.valueOf(Integer.parseInt(attributes.get("status").trim()));
+            if (!status.isError()) {
+                problems.add("'%s' status %s is not a 4xx or 5xx status".formatted(code, status.value()));
+            }
+        } catch (IllegalArgumentException ex) {
+            problems.add("'%s' status '%s' is not a valid HTTP status".formatted(code, attributes.get("status")));
+        }
+
+        try {
+            template(attributes.get("detail"), Locale.ROOT);
+        } catch (IllegalArgumentException ex) {
+            problems.add("'%s' detail is not a valid message template: %s".formatted(code, ex.getMessage()));
+        }
+
+        return problems.size() > problemCount ? null : new ErrorCatalogEntry(code, status, attributes.get("title"), attributes.get("detail"));
+    }
+
+    /**
+     * Compiles {@code pattern}, rejecting a single apostrophe outside an argument that does not quote a brace:
+     * {@link MessageFormat} would silently swallow it and every argument after it.
+     */
+    private static MessageFormat template(String pattern, Locale locale) {
+        int depth = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && depth > 0) {
+                depth--;
+            } else if (c == '\'' && depth == 0) {
+                char next = i + 1 < pattern.length() ? pattern.charAt(i + 1) : 0;
+                int closing = pattern.indexOf('\'', i + 1);
+                if (next == '\'') {
+                    i++;
+                } else if ((next == '{' || next == '}') && closing > 0) {
+                    i = closing;
+                } else {
+                    throw new IllegalArgumentException("single apostrophe at index %d, use '' for a literal apostrophe".formatted(i));
+                }
+            }
+        }
+        return new MessageFormat(pattern, locale);
+    }
+
+    private static Properties read(Resource resource) {
+        String filename = Objects.requireNonNullElse(resource.getFilename(), "");
+        if (filename.endsWith(".yml") || filename.endsWith(".yaml")) {
+            YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+            yaml.setResources(resource);
+            return Objects.requireNonNull(yaml.getObject());
+        }
+        try {
+            return PropertiesLoaderUtils.loadProperties(resource);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Error catalog %s could not be read".formatted(resource.getDescription()), ex);
+        }
+    }
+
+    private record LocalizedCode(String code, Locale locale) {
+    }
+
+    private record CompiledEntry(String title, MessageFormat detail) {
+        String format(Object[] arguments) {
+            return ((MessageFormat) detail.clone()).format(arguments);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.fabiankevin.lemon.web.exceptions;
+
+import org.springframework.http.HttpStatusCode;
+
+public record ErrorCatalogEntry(String code, HttpStatusCode status, String title, String detail) {
+}
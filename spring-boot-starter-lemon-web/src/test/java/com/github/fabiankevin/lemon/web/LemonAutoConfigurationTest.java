@@ -1,12 +1,16 @@
 package com.github.fabiankevin.lemon.web;
 
+import com.github.fabiankevin.lemon.web.exceptions.ErrorCatalog;
 import com.github.fabiankevin.lemon.web.security.DefaultBearerAccessDeniedHandler;
 import com.github.fabiankevin.lemon.web.security.DefaultInvalidTokenAuthenticationEntryPoint;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import tools.jackson.core.exc.StreamConstraintsException;
+import tools.jackson.databind.json.JsonMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LemonAutoConfigurationTest {
     private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
@@ -21,4 +25,36 @@ class LemonAutoConfigurationTest {
         });
     }
 
+    @Test
+    void jsonMapperBuilder_givenJsonLimits_thenShouldApplyStreamReadConstraints() {
+        this.contextRunner.withPropertyValues(
+                "lemon.json.limits.max-nesting-depth=3",
+                "lemon.json.limits.max-string-length=5",
+                "lemon.json.limits.max-number-length=4").run((context) -> {
+            JsonMapper jsonMapper = context.getBean(JsonMapper.Builder.class).build();
+
+            assertThat(jsonMapper.readTree("[[[1]]]").size()).isEqualTo(1);
+            assertThatThrownBy(() -> jsonMapper.readTree("[[[[1]]]]"))
+                    .isInstanceOf(StreamConstraintsException.class);
+            assertThatThrownBy(() -> jsonMapper.readTree("[\"lemonade\"]"))
+                    .isInstanceOf(StreamConstraintsException.class);
+            assertThatThrownBy(() -> jsonMapper.readTree("[123456]"))
+                    .isInstanceOf(StreamConstraintsException.class);
+        });
+    }
+
+    @Test
+    void errorCatalog_givenCatalogLocation_thenShouldLoadCatalog() {
+        this.contextRunner.withPropertyValues("lemon.errors.catalog=classpath:lemon-errors-test.yml").run((context) -> {
+            assertThat(context).hasSingleBean(ErrorCatalog.class);
+            assertThat(context.getBean(ErrorCatalog.class).contains("ORD-001")).isTrue();
+        });
+    }
+
+    @Test
+    void errorCatalog_givenMissingCatalog_thenShouldFailStartup() {
+        this.contextRunner.withPropertyValues("lemon.errors.catalog=classpath:missing-errors.yml").run((context) -> {
+            assertThat(context).hasFailed();
+        });
+    }
 }
@@ -0,0 +1,77 @@
+package com.github.fabiankevin.lemon.web;
+
+import com.github.fabiankevin.lemon.web.controllers.TestService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = AutoConfigTestApp.class, properties = {
+        "lemon.json.limits.max-nesting-depth=5",
+        "lemon.json.limits.max-string-length=16",
+        "lemon.json.limits.max-number-length=6",
+        "lemon.json.limits.max-document-length=1KB"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("autoconfig-test")
+class LemonJsonLimitsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TestService service;
+
+    @Test
+    void jsonEndpoint_givenDocumentOverMaxLength_returnsContentTooLarge() throws Exception {
+        String fields = IntStream.range(0, 2000)
+                .mapToObj(i -> "\"f%d\":1".formatted(i))
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/test/json").contentType(MediaType.APPLICATION_JSON).content("{" + fields + "}"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.title").value("Content too large"))
+                .andExpect(jsonPath("$.detail").value("The request body exceeds the maximum allowed size"))
+                .andExpect(jsonPath("$.status").value(413));
+    }
+
+    @Test
+    void jsonEndpoint_givenNestingOverMaxDepth_returnsNestingDepthProblem() throws Exception {
+        String nestedJson = "{\"name\":\"lemon\",\"extra\":[[[[[[1]]]]]]}";
+
+        mockMvc.perform(post("/test/json").contentType(MediaType.APPLICATION_JSON).content(nestedJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("The request body exceeds the maximum allowed nesting depth"))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void jsonEndpoint_givenStringOverMaxLength_returnsStringLengthProblem() throws Exception {
+        String longStringJson = "{\"name\":\"" + "a".repeat(32) + "\"}";
+
+        mockMvc.perform(post("/test/json").contentType(MediaType.APPLICATION_JSON).content(longStringJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("The request body contains a string value that exceeds the maximum allowed length"))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void jsonEndpoint_givenNumberOverMaxLength_returnsNumberLengthProblem() throws Exception {
+        String longNumberJson = "{\"name\":\"lemon\",\"extra\":12345678901}";
+
+        mockMvc.perform(post("/test/json").contentType(MediaType.APPLICATION_JSON).content(longNumberJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("The request body contains a number value that exceeds the maximum allowed length"))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+}
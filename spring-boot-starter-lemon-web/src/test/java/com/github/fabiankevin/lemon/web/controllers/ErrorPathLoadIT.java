@@ -0,0 +1,377 @@
+package com.github.fabiankevin.lemon.web.controllers;
+
+import com.github.fabiankevin.lemon.web.AutoConfigTestApp;
+import com.github.fabiankevin.lemon.web.controllers.dtos.SimpleDto;
+import com.github.fabiankevin.lemon.web.exceptions.ApiException;
+import com.github.fabiankevin.lemon.web.exceptions.BusinessRuleException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Latency and allocation suite for the error and security paths, run with {@code -P load-test}.
+ * <p>
+ * Every run records its measurements. Scenarios are compared against the stored baselines only once a reference run
+ * has been recorded; until then the suite fails after recording, so an unrecorded baseline file is never mistaken
+ * for a passing regression gate.
+ * <p>
+ * The load loop is closed: each virtual thread waits for its response before sending the next request, so the
+ * percentiles (in microseconds) are service times and are not corrected for coordinated omission. Allocation is
+ * measured per request on the server's request thread, so client-side allocation is excluded.
+ */
+@SpringBootTest(classes = AutoConfigTestApp.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("autoconfig-test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ErrorPathLoadIT {
+    private static final String BASELINE_HEADER = """
+            # Latency (microseconds) and server allocation (bytes per request) baselines for ErrorPathLoadIT.
+            # A scenario without an entry fails the build. Record on the reference machine with:
+            # ./mvnw -P load-test verify -Dlemon.load.update-baselines=true
+            """;
+    private static final String USER_CREDENTIALS = "Basic " + Base64.getEncoder()
+            .encodeToString("user:password".getBytes(StandardCharsets.UTF_8));
+
+    private final int requests = Integer.getInteger("lemon.load.requests", 20000);
+    private final int warmupRequests = Integer.getInteger("lemon.load.warmup-requests", 2000);
+    private final int concurrency = Integer.getInteger("lemon.load.concurrency", 32);
+    private final double latencyTolerance = Double.parseDouble(System.getProperty("lemon.load.latency-tolerance", "1.5"));
+    private final double allocationTolerance = Double.parseDouble(System.getProperty("lemon.load.allocation-tolerance", "1.2"));
+    private final boolean updateBaselines = Boolean.getBoolean("lemon.load.update-baselines");
+    private final Path baselinesPath = Path.of(System.getProperty("lemon.load.baselines", "src/test/resources/load-test/baselines.properties"));
+    private final Path measurementsPath = Path.of(System.getProperty("lemon.load.measurements", "target/load-test/measurements.properties"));
+    private final Properties baselines = new Properties();
+    private final Properties measurements = new Properties();
+
+    private HttpClient httpClient;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private ServerAllocationFilter serverAllocationFilter;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        if (Files.exists(baselinesPath)) {
+            try (InputStream input = Files.newInputStream(baselinesPath)) {
+                baselines.load(input);
+            }
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        httpClient.close();
+        write(measurementsPath, measurements);
+        if (updateBaselines) {
+            write(baselinesPath, measurements);
+        }
+    }
+
+    private static void write(Path path, Properties values) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(BASELINE_HEADER);
+            for (var entry : new TreeMap<>(values).entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+            }
+        }
+    }
+
+    static Stream<Scenario> scenarios() {
+        return Stream.of(
+                new Scenario("api-exception", HttpMethod.GET, "/test/api-ex", null, null, 400),
+                new Scenario("business-rule", HttpMethod.GET, "/test/business-rule", null, null, 422),
+                new Scenario("malformed-json", HttpMethod.POST, "/test/json", "{ name: 'missing-quotes' }", null, 400),
+                new Scenario("nested-json", HttpMethod.POST, "/test/json", "{\"name\":\"lemon\",\"extra\":" + "[".repeat(300) + "]".repeat(300) + "}", null, 400),
+                new Scenario("missing-param", HttpMethod.GET, "/test/param", null, null, 400),
+                new Scenario("method-not-allowed", HttpMethod.POST, "/test/method-only", null, null, 405),
+                new Scenario("unauthenticated", HttpMethod.GET, "/test/access-denied", null, null, 401),
+                new Scenario("forbidden", HttpMethod.DELETE, "/test/delete", null, USER_CREDENTIALS, 403));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    void errorPath_underLoad_staysWithinBaselines(Scenario scenario) throws Exception {
+        HttpRequest request = scenario.toRequest(URI.create("http://localhost:" + port));
+        drive(request, warmupRequests, scenario.expectedStatus());
+
+        LoadResult result = drive(request, requests, scenario.expectedStatus());
+
+        assertThat(result.statusMismatches()).as("every response should have status %d", scenario.expectedStatus())
+                .isZero();
+        List<String> violations = checkAgainstBaseline(scenario.name(), result);
+        if (baselines.isEmpty() && !updateBaselines) {
+            fail("No baselines recorded in %s; measurements were recorded to %s. Record a reference run with -Dlemon.load.update-baselines=true"
+                    .formatted(baselinesPath, measurementsPath));
+        }
+        assertThat(violations).as("metrics should stay within tolerance of the stored baseline")
+                .isEmpty();
+    }
+
+    private LoadResult drive(HttpRequest request, int count, int expectedStatus) throws Exception {
+        Histogram histogram = new ConcurrentHistogram(3);
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicInteger statusMismatches = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(concurrency);
+
+        serverAllocationFilter.reset();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                        if (response.statusCode() != expectedStatus) {
+                            statusMismatches.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        return new LoadResult(histogram, serverAllocationFilter.allocatedBytesPerRequest(), statusMismatches.get());
+    }
+
+    private List<String> checkAgainstBaseline(String scenario, LoadResult result) {
+        List<String> violations = new ArrayList<>();
+        check(scenario + ".p50", result.histogram().getValueAtPercentile(50.0), latencyTolerance, violations);
+        check(scenario + ".p99", result.histogram().getValueAtPercentile(99.0), latencyTolerance, violations);
+        check(scenario + ".p999", result.histogram().getValueAtPercentile(99.9), latencyTolerance, violations);
+        if (result.allocatedBytesPerRequest() >= 0) {
+            check(scenario + ".allocated-bytes", result.allocatedBytesPerRequest(), allocationTolerance, violations);
+        }
+        return violations;
+    }
+
+    private void check(String key, long measured, double tolerance, List<String> violations) {
+        measurements.setProperty(key, Long.toString(measured));
+        if (updateBaselines || baselines.isEmpty()) {
+            return;
+        }
+        String baseline = baselines.getProperty(key);
+        if (baseline == null) {
+            violations.add("%s: no baseline in %s (measured %d)".formatted(key, baselinesPath, measured));
+            return;
+        }
+        long limit = (long) (Long.parseLong(baseline) * tolerance);
+        if (measured > limit) {
+            violations.add("%s: measured %d exceeds %d (baseline %s x %.2f)".formatted(key, measured, limit, baseline, tolerance));
+        }
+    }
+
+    record Scenario(String name, HttpMethod method, String path, String body, String authorization, int expectedStatus) {
+        HttpRequest toRequest(URI baseUri) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .method(method.name(), body != null
+                            ? HttpRequest.BodyPublishers.ofString(body)
+                            : HttpRequest.BodyPublishers.noBody());
+            if (body != null) {
+                builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            }
+            if (authorization != null) {
+                builder.header(HttpHeaders.AUTHORIZATION, authorization);
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    record LoadResult(Histogram histogram, long allocatedBytesPerRequest, int statusMismatches) {
+    }
+
+    @TestConfiguration
+    static class LoadTestConfiguration {
+
+        @Bean
+        ServerAllocationFilter serverAllocationFilter() {
+            return new ServerAllocationFilter();
+        }
+
+        @Bean
+        TestService loadTestService() {
+            return new LoadTestService();
+        }
+
+        @Bean
+        UserDetailsService loadTestUsers() {
+            return new InMemoryUserDetailsManager(User.withUsername("user").password("{noop}password").roles("USER").build());
+        }
+
+        @Bean
+        SecurityFilterChain loadTestSecurityFilterChain(HttpSecurity http,
+                                                        AuthenticationEntryPoint authenticationEntryPoint,
+                                                        AccessDeniedHandler accessDeniedHandler) throws Exception {
+            return http
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .authorizeHttpRequests(authorize -> authorize
+                            .requestMatchers(HttpMethod.DELETE, "/test/delete").hasRole("ADMIN")
+                            .requestMatchers("/test/access-denied").authenticated()
+                            .anyRequest().permitAll())
+                    .httpBasic(basic -> basic.authenticationEntryPoint(authenticationEntryPoint))
+                    .exceptionHandling(exceptions -> exceptions
+                            .authenticationEntryPoint(authenticationEntryPoint)
+                            .accessDeniedHandler(accessDeniedHandler))
+                    .build();
+        }
+    }
+
+    /**
+     * Runs first in the servlet filter chain and sums the bytes allocated by the request thread while serving a request.
+     */
+    static class ServerAllocationFilter extends OncePerRequestFilter implements Ordered {
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            long before = currentThreadAllocatedBytes();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                long after = currentThreadAllocatedBytes();
+                if (before >= 0 && after >= 0) {
+                    allocatedBytes.add(after - before);
+                    requests.increment();
+                }
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        void reset() {
+            allocatedBytes.reset();
+            requests.reset();
+        }
+
+        long allocatedBytesPerRequest() {
+            long count = requests.sum();
+            return count == 0 ? -1 : allocatedBytes.sum() / count;
+        }
+
+        private static long currentThreadAllocatedBytes() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported()
+                    && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return threadMXBean.getCurrentThreadAllocatedBytes();
+            }
+            return -1;
+        }
+    }
+
+    static class LoadTestService implements TestService {
+        @Override
+        public void api() {
+            throw new ApiException("Load test failure", 400);
+        }
+
+        @Override
+        public void accessDenied() {
+        }
+
+        @Override
+        public void json(SimpleDto dto) {
+        }
+
+        @Override
+        public void requireParam(int id) {
+        }
+
+        @Override
+        public String methodOnly() {
+            return "ok";
+        }
+
+        @Override
+        public void upload() {
+        }
+
+        @Override
+        public void put() {
+        }
+
+        @Override
+        public void patch() {
+        }
+
+        @Override
+        public void delete() {
+        }
+
+        @Override
+        public void businessRule() {
+            throw new BusinessRuleException("Load test rule violated", 422, "Business rule violated", "LOAD-001");
+        }
+    }
+}
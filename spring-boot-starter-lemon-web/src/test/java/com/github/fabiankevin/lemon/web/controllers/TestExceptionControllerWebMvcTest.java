@@ -3,28 +3,50 @@ package com.github.fabiankevin.lemon.web.controllers;
 import com.github.fabiankevin.lemon.web.GlobalExceptionHandler;
 import com.github.fabiankevin.lemon.web.exceptions.ApiException;
 import com.github.fabiankevin.lemon.web.exceptions.BusinessRuleException;
+import com.github.fabiankevin.lemon.web.exceptions.ErrorCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.connector.ClientAbortException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TestExceptionController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, SimpleMeterRegistry.class})
 @ActiveProfiles("autoconfig-test")
 class TestExceptionControllerWebMvcTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private TestService service;
 
@@ -126,4 +148,114 @@ class TestExceptionControllerWebMvcTest {
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.code").value("BUS-001"));
     }
+
+    @Test
+    void apiExceptionEndpoint_givenClientAborted_thenSkipsBodyAndCountsAbort() throws Exception {
+        double abortsBefore = clientAborts();
+        doAnswer(invocation -> {
+            throw new ClientAbortException("Broken pipe");
+        }).when(service).api();
+
+        mockMvc.perform(get("/test/api-ex"))
+                .andExpect(content().string(""));
+
+        assertThat(clientAborts()).isEqualTo(abortsBefore + 1);
+    }
+
+    @Test
+    void apiExceptionEndpoint_givenResponseNotUsable_thenSkipsBodyAndCountsAbort() throws Exception {
+        double abortsBefore = clientAborts();
+        doAnswer(invocation -> {
+            throw new AsyncRequestNotUsableException("ServletOutputStream failed to flush");
+        }).when(service).api();
+
+        mockMvc.perform(get("/test/api-ex"))
+                .andExpect(content().string(""));
+
+        assertThat(clientAborts()).isEqualTo(abortsBefore + 1);
+    }
+
+    @Test
+    void apiExceptionEndpoint_givenAsyncTimeoutAfterCommit_thenSkipsBody() throws Exception {
+        double abortsBefore = clientAborts();
+        doAnswer(invocation -> {
+            commitPartialResponse();
+            throw new AsyncRequestTimeoutException();
+        }).when(service).api();
+
+        mockMvc.perform(get("/test/api-ex"))
+                .andExpect(content().string("partial"));
+
+        assertThat(clientAborts()).isEqualTo(abortsBefore);
+    }
+
+    @Test
+    void apiExceptionEndpoint_givenFailureAfterCommit_thenSkipsBodyWithoutCountingAbort() throws Exception {
+        double abortsBefore = clientAborts();
+        doAnswer(invocation -> {
+            commitPartialResponse();
+            throw new IllegalStateException("Serialization failed");
+        }).when(service).api();
+
+        mockMvc.perform(get("/test/api-ex"))
+                .andExpect(content().string("partial"));
+
+        assertThat(clientAborts()).isEqualTo(abortsBefore);
+    }
+
+    @Test
+    void apiExceptionEndpoint_givenBrokenPipeOnLiveRequest_returnsInternalServerError() throws Exception {
+        double abortsBefore = clientAborts();
+        doAnswer(invocation -> {
+            throw new IOException("Broken pipe");
+        }).when(service).api();
+
+        mockMvc.perform(get("/test/api-ex"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.title").value("Internal server error"))
+                .andExpect(jsonPath("$.status").value(500));
+
+        assertThat(clientAborts()).isEqualTo(abortsBefore);
+    }
+
+    private static void commitPartialResponse() throws IOException {
+        HttpServletResponse response = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
+        response.getWriter().write("partial");
+        response.flushBuffer();
+    }
+
+    private double clientAborts() {
+        Counter counter = meterRegistry.find("lemon.client.aborts").tag("route", "/test/api-ex").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void businessRuleExceptionEndpoint_givenCatalogedCode_returnsCatalogProblem() throws Exception {
+        doThrow(BusinessRuleException.of("ORD-001", "A-42", "shipped")).when(service).businessRule();
+
+        mockMvc.perform(get("/test/business-rule"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Order cannot be cancelled"))
+                .andExpect(jsonPath("$.detail").value("Order A-42 is already shipped"))
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.code").value("ORD-001"));
+    }
+
+    @Test
+    void businessRuleExceptionEndpoint_givenUnknownCode_returnsInternalServerError() throws Exception {
+        doThrow(BusinessRuleException.of("ORD-999")).when(service).businessRule();
+
+        mockMvc.perform(get("/test/business-rule"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.title").value("Internal server error"))
+                .andExpect(jsonPath("$.code").value("ORD-999"));
+    }
+
+    @TestConfiguration
+    static class ErrorCatalogConfiguration {
+        @Bean
+        ErrorCatalog errorCatalog(MessageSource messageSource) {
+            return ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), messageSource, Locale.ENGLISH, List.of());
+        }
+    }
 }
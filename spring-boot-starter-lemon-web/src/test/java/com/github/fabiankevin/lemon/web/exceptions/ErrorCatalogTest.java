@@ -0,0 +1,138 @@
+package com.github.fabiankevin.lemon.web.exceptions;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErrorCatalogTest {
+
+    @Test
+    void load_givenYamlCatalog_thenRendersTemplateWithArguments() {
+        ErrorCatalog catalog = ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), new StaticMessageSource(), Locale.ENGLISH, List.of());
+
+        ErrorCatalogEntry entry = catalog.render("ORD-001", new Object[]{"A-42", "shipped"}, Locale.ENGLISH);
+
+        assertThat(catalog.entries()).containsOnlyKeys("ORD-001", "ORD-002");
+        assertThat(entry.status()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(entry.title()).isEqualTo("Order cannot be cancelled");
+        assertThat(entry.detail()).isEqualTo("Order A-42 is already shipped");
+    }
+
+    @Test
+    void render_givenLocalizedMessages_thenUsesMessageSourceTemplates() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("lemon.errors.ORD-001.title", Locale.GERMAN, "Bestellung kann nicht storniert werden");
+        messageSource.addMessage("lemon.errors.ORD-001.detail", Locale.GERMAN, "Bestellung {0} ist bereits {1}");
+        ErrorCatalog catalog = ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), messageSource,
+                Locale.ENGLISH, List.of(Locale.GERMAN));
+
+        ErrorCatalogEntry german = catalog.render("ORD-001", new Object[]{"A-42", "versandt"}, Locale.GERMAN);
+        ErrorCatalogEntry swissGerman = catalog.render("ORD-001", new Object[]{"A-42", "versandt"}, Locale.forLanguageTag("de-CH"));
+        ErrorCatalogEntry english = catalog.render("ORD-001", new Object[]{"A-42", "shipped"}, Locale.ENGLISH);
+        ErrorCatalogEntry unsupported = catalog.render("ORD-001", new Object[]{"A-42", "shipped"}, Locale.forLanguageTag("xx-YY"));
+
+        assertThat(german.title()).isEqualTo("Bestellung kann nicht storniert werden");
+        assertThat(german.detail()).isEqualTo("Bestellung A-42 ist bereits versandt");
+        assertThat(swissGerman.detail()).isEqualTo("Bestellung A-42 ist bereits versandt");
+        assertThat(english.detail()).isEqualTo("Order A-42 is already shipped");
+        assertThat(unsupported.detail()).isEqualTo("Order A-42 is already shipped");
+    }
+
+    @Test
+    void load_givenMalformedTranslation_thenFailsAtStartup() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("lemon.errors.ORD-001.detail", Locale.GERMAN, "Bestellung {0 ist bereits {1}");
+
+        assertThatThrownBy(() -> ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), messageSource, Locale.ENGLISH, List.of(Locale.GERMAN)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'ORD-001' detail for locale 'de'");
+    }
+
+    @Test
+    void render_givenNullArguments_thenStillUsesCatalog() {
+        ErrorCatalog catalog = ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), new StaticMessageSource(), Locale.ENGLISH, List.of());
+        BusinessRuleException ex = BusinessRuleException.of("ORD-001", (Object[]) null);
+
+        ErrorCatalogEntry entry = catalog.render(ex.getCode(), ex.getArguments(), Locale.ENGLISH);
+
+        assertThat(ex.isCataloged()).isTrue();
+        assertThat(entry.title()).isEqualTo("Order cannot be cancelled");
+        assertThat(entry.detail()).isEqualTo("Order {0} is already {1}");
+    }
+
+    @Test
+    void of_givenNonStringValues_thenLoadsEntries() {
+        Properties properties = new Properties();
+        properties.put("ORD-003.status", 404);
+        properties.put("ORD-003.title", "Order not found");
+        properties.put("ORD-003.detail", "Order {0} does not exist");
+
+        ErrorCatalog catalog = ErrorCatalog.of(properties, new StaticMessageSource(), Locale.ENGLISH, List.of());
+
+        assertThat(catalog.render("ORD-003", new Object[]{"A-42"}, Locale.ENGLISH).status()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void of_givenEscapedApostrophes_thenRendersThemLiterally() {
+        Properties properties = new Properties();
+        properties.setProperty("ORD-004.status", "409");
+        properties.setProperty("ORD-004.title", "Order locked");
+        properties.setProperty("ORD-004.detail", "Order {0} can''t be changed, '{'locked'}'");
+
+        ErrorCatalog catalog = ErrorCatalog.of(properties, new StaticMessageSource(), Locale.ENGLISH, List.of());
+
+        assertThat(catalog.render("ORD-004", new Object[]{"A-42"}, Locale.ENGLISH).detail())
+                .isEqualTo("Order A-42 can't be changed, {locked}");
+    }
+
+    @Test
+    void load_givenSingleApostropheInTranslation_thenFailsAtStartup() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("lemon.errors.ORD-001.detail", Locale.FRENCH, "La commande {0} est déjà {1}, pas d'annulation");
+
+        assertThatThrownBy(() -> ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), messageSource, Locale.ENGLISH, List.of(Locale.FRENCH)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'ORD-001' detail for locale 'fr'")
+                .hasMessageContaining("use '' for a literal apostrophe");
+    }
+
+    @Test
+    void render_givenNoAdditionalLocales_thenUsesDefaultLocaleTranslation() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("lemon.errors.ORD-001.title", Locale.GERMAN, "Bestellung kann nicht storniert werden");
+        ErrorCatalog catalog = ErrorCatalog.load(new ClassPathResource("lemon-errors-test.yml"), messageSource, Locale.GERMAN, List.of());
+
+        ErrorCatalogEntry entry = catalog.render("ORD-001", new Object[]{"A-42", "versandt"}, Locale.JAPANESE);
+
+        assertThat(entry.title()).isEqualTo("Bestellung kann nicht storniert werden");
+    }
+
+    @Test
+    void of_givenInvalidEntries_thenFailsWithEveryProblem() {
+        Properties properties = new Properties();
+        properties.setProperty("BAD-001.status", "200");
+        properties.setProperty("BAD-001.title", "Not an error");
+        properties.setProperty("BAD-001.detail", "Fine");
+        properties.setProperty("BAD-002.status", "400");
+        properties.setProperty("BAD-002.detail", "Broken {0");
+        properties.setProperty("BAD-003.message", "Unknown attribute");
+        properties.setProperty("BAD-004.status", "409");
+        properties.setProperty("BAD-004.title", "Quoted");
+        properties.setProperty("BAD-004.detail", "Order {0} can't be changed");
+
+        assertThatThrownBy(() -> ErrorCatalog.of(properties, new StaticMessageSource(), Locale.ENGLISH, List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'BAD-001' status 200 is not a 4xx or 5xx status")
+                .hasMessageContaining("'BAD-002' is missing title")
+                .hasMessageContaining("'BAD-003.message'")
+                .hasMessageContaining("'BAD-004' detail is not a valid message template");
+    }
+}